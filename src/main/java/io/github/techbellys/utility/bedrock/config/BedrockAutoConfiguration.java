@@ -5,9 +5,11 @@ import io.github.techbellys.utility.bedrock.model.ModelService;
 import io.github.techbellys.utility.bedrock.service.ModerationService;
 import io.github.techbellys.utility.bedrock.service.KnowledgeBaseService;
 import io.github.techbellys.utility.bedrock.service.BedrockAgentService;
+import io.github.techbellys.utility.bedrock.service.ScatterGatherService;
 import io.github.techbellys.utility.bedrock.service.impl.ModerationServiceImpl;
 import io.github.techbellys.utility.bedrock.service.impl.KnowledgeBaseServiceImpl;
 import io.github.techbellys.utility.bedrock.service.impl.BedrockAgentServiceImpl;
+import io.github.techbellys.utility.bedrock.service.impl.ScatterGatherServiceImpl;
 import io.github.techbellys.utility.bedrock.knowledgebase.KnowledgeBaseSyncHelper;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
@@ -27,7 +29,7 @@ import org.springframework.context.annotation.Configuration;
  *
  * <p>This configuration class defines Spring beans for interacting with AWS Bedrock services.
  * It includes clients for Bedrock, Bedrock Agent, and runtime clients, as well as service
- * implementations for moderation, knowledge base, and agent services.</p>
+ * implementations for moderation, knowledge base, agent, and scatter-gather services.</p>
  */
 @Configuration
 public class BedrockAutoConfiguration {
@@ -164,6 +166,16 @@ public class BedrockAutoConfiguration {
         return new BedrockAgentServiceImpl();
     }
 
+    /**
+     * Configures the {@link ScatterGatherService} bean to query multiple knowledge bases and agents concurrently.
+     *
+     * @return the configured ScatterGatherService instance
+     */
+    @Bean
+    public ScatterGatherService scatterGatherService() {
+        return new ScatterGatherServiceImpl();
+    }
+
     /**
      * Configures the {@link KnowledgeBaseSyncHelper} bean for synchronizing documents with the AWS Bedrock Knowledge Base.
      *
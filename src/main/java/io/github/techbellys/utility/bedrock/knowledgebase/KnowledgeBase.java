@@ -4,13 +4,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import software.amazon.awssdk.services.bedrockagentruntime.BedrockAgentRuntimeAsyncClient;
 import software.amazon.awssdk.services.bedrockagentruntime.BedrockAgentRuntimeClient;
+import software.amazon.awssdk.services.bedrockagentruntime.model.KnowledgeBaseQuery;
+import software.amazon.awssdk.services.bedrockagentruntime.model.KnowledgeBaseRetrievalConfiguration;
+import software.amazon.awssdk.services.bedrockagentruntime.model.KnowledgeBaseRetrievalResult;
 import software.amazon.awssdk.services.bedrockagentruntime.model.KnowledgeBaseRetrieveAndGenerateConfiguration;
+import software.amazon.awssdk.services.bedrockagentruntime.model.KnowledgeBaseVectorSearchConfiguration;
 import software.amazon.awssdk.services.bedrockagentruntime.model.RetrieveAndGenerateConfiguration;
 import software.amazon.awssdk.services.bedrockagentruntime.model.RetrieveAndGenerateInput;
 import software.amazon.awssdk.services.bedrockagentruntime.model.RetrieveAndGenerateRequest;
 import software.amazon.awssdk.services.bedrockagentruntime.model.RetrieveAndGenerateResponse;
 import software.amazon.awssdk.services.bedrockagentruntime.model.RetrieveAndGenerateType;
+import software.amazon.awssdk.services.bedrockagentruntime.model.RetrieveRequest;
+import software.amazon.awssdk.services.bedrockagentruntime.model.RetrieveResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Service class to handle operations related to the AWS Bedrock Knowledge Base.
@@ -23,6 +33,9 @@ public class KnowledgeBase {
     @Autowired
     private BedrockAgentRuntimeClient bedrockAgentRuntimeClient;
 
+    @Autowired
+    private BedrockAgentRuntimeAsyncClient bedrockAgentRuntimeAsyncClient;
+
     /**
      * Processes a query using the specified Knowledge Base and model.
      *
@@ -35,6 +48,47 @@ public class KnowledgeBase {
         return invokeModelWithRAG(modelId, knowledgeBaseId, query);
     }
 
+    /**
+     * Asynchronously retrieves the passages most relevant to a query from the specified Knowledge Base,
+     * without running the generation step.
+     *
+     * @param knowledgeBaseId The ID of the Knowledge Base.
+     * @param query           The query text to retrieve passages for.
+     * @param numberOfResults The maximum number of passages to retrieve.
+     * @return A {@link CompletableFuture} containing the retrieved passages, each carrying its relevance score.
+     *         Cancelling it aborts the underlying retrieve request.
+     */
+    public CompletableFuture<List<KnowledgeBaseRetrievalResult>> retrieveAsync(String knowledgeBaseId,
+                                                                              String query,
+                                                                              int numberOfResults) {
+        // Configure vector search to return the requested number of passages
+        KnowledgeBaseRetrievalConfiguration retrievalConfig = KnowledgeBaseRetrievalConfiguration.builder()
+                .vectorSearchConfiguration(KnowledgeBaseVectorSearchConfiguration.builder()
+                        .numberOfResults(numberOfResults)
+                        .build())
+                .build();
+
+        // Build request
+        RetrieveRequest request = RetrieveRequest.builder()
+                .knowledgeBaseId(knowledgeBaseId)
+                .retrievalQuery(KnowledgeBaseQuery.builder().text(query).build())
+                .retrievalConfiguration(retrievalConfig)
+                .build();
+
+        // Call AWS Bedrock Agent Runtime without blocking the caller
+        CompletableFuture<RetrieveResponse> retrieval = bedrockAgentRuntimeAsyncClient.retrieve(request);
+        CompletableFuture<List<KnowledgeBaseRetrievalResult>> results =
+                retrieval.thenApply(RetrieveResponse::retrievalResults);
+
+        // Cancelling the derived future does not reach the SDK future, so propagate it to release the connection
+        results.whenComplete((passages, e) -> {
+            if (results.isCancelled()) {
+                retrieval.cancel(true);
+            }
+        });
+        return results;
+    }
+
     /**
      * Invokes the AWS Bedrock Knowledge Base with Retrieve and Generate (RAG) configuration.
      *
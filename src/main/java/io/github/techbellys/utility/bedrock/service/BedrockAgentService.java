@@ -1,5 +1,7 @@
 package io.github.techbellys.utility.bedrock.service;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Service interface for interacting with AWS Bedrock Agents.
  * Provides functionality to invoke an agent with a given prompt and retrieve its response.
@@ -19,4 +21,24 @@ public interface BedrockAgentService {
                               String agentId,
                               String agentAliasId,
                               String sessionId);
+
+    /**
+     * Asynchronously invokes an AWS Bedrock Agent with the specified parameters.
+     *
+     * <p>The default implementation runs {@link #invokeBedrockAgent} on the common fork-join pool, so existing
+     * implementations keep compiling. Implementations backed by an async client should override it, and should
+     * abort the underlying request when the returned future is cancelled.</p>
+     *
+     * @param prompt       The input text to send to the agent.
+     * @param agentId      The ID of the agent to invoke.
+     * @param agentAliasId The alias ID of the agent.
+     * @param sessionId    The session ID for maintaining agent context across multiple interactions.
+     * @return A {@link CompletableFuture} containing the response text generated by the agent.
+     */
+    default CompletableFuture<String> invokeBedrockAgentAsync(String prompt,
+                                                              String agentId,
+                                                              String agentAliasId,
+                                                              String sessionId) {
+        return CompletableFuture.supplyAsync(() -> invokeBedrockAgent(prompt, agentId, agentAliasId, sessionId));
+    }
 }
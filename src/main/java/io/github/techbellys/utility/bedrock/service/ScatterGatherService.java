@@ -0,0 +1,62 @@
+package io.github.techbellys.utility.bedrock.service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Service interface for querying several AWS Bedrock Knowledge Bases and Agents at once.
+ * Sends one query to every target concurrently, merges the retrieved passages by relevance score
+ * and runs a single generation step over the merged context.
+ */
+public interface ScatterGatherService {
+
+    /**
+     * Sends the query to all given knowledge bases and agents concurrently and generates one answer
+     * from the merged results. Targets that fail, do not respond within {@code targetTimeout}, return nothing,
+     * or whose passages are all ranked out of the context are reported in {@link ScatterGatherResult#droppedTargets()}.
+     * Agent responses are always kept in the context.
+     *
+     * @param modelId          The ID of the model to use for the generation step.
+     * @param query            The user query text to process.
+     * @param knowledgeBaseIds The IDs of the knowledge bases to retrieve passages from.
+     * @param agents           The agents to invoke with the query.
+     * @param targetTimeout    The maximum time to wait for each individual target.
+     * @return The generated answer together with the passages it was based on and the dropped targets.
+     */
+    ScatterGatherResult processQuery(String modelId,
+                                     String query,
+                                     List<String> knowledgeBaseIds,
+                                     List<AgentTarget> agents,
+                                     Duration targetTimeout);
+
+    /**
+     * Identifies an AWS Bedrock Agent to include in a scatter-gather query.
+     *
+     * @param agentId      The ID of the agent to invoke.
+     * @param agentAliasId The alias ID of the agent.
+     * @param sessionId    The session ID for maintaining agent context across multiple interactions.
+     */
+    record AgentTarget(String agentId, String agentAliasId, String sessionId) {
+    }
+
+    /**
+     * A piece of context returned by one of the targets.
+     *
+     * @param source The knowledge base or agent the passage came from.
+     * @param text   The passage text.
+     * @param score  The relevance score reported by the knowledge base, or {@code null} for agent responses.
+     */
+    record Passage(String source, String text, Double score) {
+    }
+
+    /**
+     * The outcome of a scatter-gather query.
+     *
+     * @param response       The response text generated from the merged passages.
+     * @param passages       The passages used as context: knowledge base passages highest score first,
+     *                       followed by agent responses.
+     * @param droppedTargets The knowledge bases and agents that failed, timed out, or contributed no passage.
+     */
+    record ScatterGatherResult(String response, List<Passage> passages, List<String> droppedTargets) {
+    }
+}
@@ -19,7 +19,7 @@ public class BedrockAgentServiceImpl implements BedrockAgentService {
     private BedrockAgentRuntimeAsyncClient bedrockAgentRuntimeAsyncClient;
 
     /**
-     * Invokes an AWS Bedrock Agent asynchronously with the given prompt and parameters.
+     * Invokes an AWS Bedrock Agent with the given prompt and parameters, blocking until the response is complete.
      *
      * @param prompt       The input text to send to the agent.
      * @param agentId      The ID of the agent to invoke.
@@ -33,6 +33,37 @@ public class BedrockAgentServiceImpl implements BedrockAgentService {
                                      String agentAliasId,
                                      String sessionId) {
 
+        CompletableFuture<String> future = invokeBedrockAgentAsync(prompt, agentId, agentAliasId, sessionId);
+
+        // Wait for the async operation to complete before returning the accumulated text
+        try {
+            return future.get(); // or future.join() if you prefer unchecked exceptions
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // Handle interruption, e.g., log and return partial result or throw a custom exception
+            throw new RuntimeException("Agent invocation was interrupted.", e);
+        } catch (ExecutionException e) {
+            // Handle the cause of the failure
+            throw new RuntimeException("Error occurred during agent invocation: " + e.getCause().getMessage(), e);
+        }
+    }
+
+    /**
+     * Invokes an AWS Bedrock Agent asynchronously with the given prompt and parameters.
+     *
+     * @param prompt       The input text to send to the agent.
+     * @param agentId      The ID of the agent to invoke.
+     * @param agentAliasId The alias ID of the agent.
+     * @param sessionId    The session ID for maintaining agent context across interactions.
+     * @return A {@link CompletableFuture} completing with the accumulated response text from the agent.
+     *         Cancelling it aborts the underlying agent invocation.
+     */
+    @Override
+    public CompletableFuture<String> invokeBedrockAgentAsync(String prompt,
+                                                             String agentId,
+                                                             String agentAliasId,
+                                                             String sessionId) {
+
         // Use StringBuilder for accumulating chunks from the response
         StringBuilder responseBuilder = new StringBuilder();
 
@@ -51,22 +82,16 @@ public class BedrockAgentServiceImpl implements BedrockAgentService {
                 .inputText(prompt)
                 .build();
 
-        // Invoke the agent (asynchronously)
-        CompletableFuture<Void> future = bedrockAgentRuntimeAsyncClient.invokeAgent(request, handler);
-
-        // Wait for the async operation to complete before returning the accumulated text
-        try {
-            future.get(); // or future.join() if you prefer unchecked exceptions
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            // Handle interruption, e.g., log and return partial result or throw a custom exception
-            throw new RuntimeException("Agent invocation was interrupted.", e);
-        } catch (ExecutionException e) {
-            // Handle the cause of the failure
-            throw new RuntimeException("Error occurred during agent invocation: " + e.getCause().getMessage(), e);
-        }
+        // Invoke the agent and hand back the accumulated text once the stream completes
+        CompletableFuture<Void> invocation = bedrockAgentRuntimeAsyncClient.invokeAgent(request, handler);
+        CompletableFuture<String> response = invocation.thenApply(ignored -> responseBuilder.toString());
 
-        // Return the accumulated response
-        return responseBuilder.toString();
+        // Cancelling the derived future does not reach the SDK future, so propagate it to close the event stream
+        response.whenComplete((text, e) -> {
+            if (response.isCancelled()) {
+                invocation.cancel(true);
+            }
+        });
+        return response;
     }
 }
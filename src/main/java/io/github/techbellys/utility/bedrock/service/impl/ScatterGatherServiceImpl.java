@@ -0,0 +1,221 @@
+package io.github.techbellys.utility.bedrock.service.impl;
+
+import io.github.techbellys.utility.bedrock.knowledgebase.KnowledgeBase;
+import io.github.techbellys.utility.bedrock.model.ModelService;
+import io.github.techbellys.utility.bedrock.service.BedrockAgentService;
+import io.github.techbellys.utility.bedrock.service.ScatterGatherService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the {@link ScatterGatherService} interface.
+ * Fans a query out to AWS Bedrock Knowledge Bases and Agents through the async runtime client,
+ * so the overall latency is bounded by the slowest target that is kept rather than the sum of all targets.
+ */
+public class ScatterGatherServiceImpl implements ScatterGatherService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScatterGatherServiceImpl.class);
+
+    private static final int RESULTS_PER_KNOWLEDGE_BASE = 5;
+    private static final int MAX_CONTEXT_PASSAGES = 10;
+    private static final double GENERATION_TEMPERATURE = 0.5;
+    private static final int GENERATION_MAX_TOKENS = 1024;
+
+    @Autowired
+    private KnowledgeBase knowledgeBase;
+
+    @Autowired
+    private BedrockAgentService bedrockAgentService;
+
+    @Autowired
+    private ModelService modelService;
+
+    /**
+     * Sends the query to all given knowledge bases and agents concurrently and generates one answer
+     * from the merged results.
+     *
+     * @param modelId          The ID of the model to use for the generation step.
+     * @param query            The user query text to process.
+     * @param knowledgeBaseIds The IDs of the knowledge bases to retrieve passages from.
+     * @param agents           The agents to invoke with the query.
+     * @param targetTimeout    The maximum time to wait for each individual target.
+     * @return The generated answer together with the passages it was based on and the dropped targets.
+     * @throws IllegalArgumentException If the model ID or query is blank, no target is given or the timeout is not positive.
+     * @throws RuntimeException         If no target returned any passage.
+     */
+    @Override
+    public ScatterGatherResult processQuery(String modelId,
+                                            String query,
+                                            List<String> knowledgeBaseIds,
+                                            List<AgentTarget> agents,
+                                            Duration targetTimeout) {
+        List<String> kbIds = knowledgeBaseIds == null ? List.of() : knowledgeBaseIds;
+        List<AgentTarget> agentTargets = agents == null ? List.of() : agents;
+        validateParameters(modelId, query, kbIds, agentTargets, targetTimeout);
+
+        // Scatter: start every target before waiting on any of them
+        List<String> targetNames = new ArrayList<>();
+        List<CompletableFuture<List<Passage>>> futures = new ArrayList<>();
+
+        for (String kbId : kbIds) {
+            String source = "knowledge-base:" + kbId;
+            targetNames.add(source);
+            futures.add(withTimeout(source, targetTimeout,
+                    knowledgeBase.retrieveAsync(kbId, query, RESULTS_PER_KNOWLEDGE_BASE),
+                    results -> results.stream()
+                            // Non-text retrieval results carry no content to use as context
+                            .filter(result -> result.content() != null && hasText(result.content().text()))
+                            .map(result -> new Passage(source, result.content().text(), result.score()))
+                            .toList()));
+        }
+        for (AgentTarget agent : agentTargets) {
+            String source = "agent:" + agent.agentId();
+            targetNames.add(source);
+            futures.add(withTimeout(source, targetTimeout,
+                    bedrockAgentService.invokeBedrockAgentAsync(
+                            query, agent.agentId(), agent.agentAliasId(), agent.sessionId()),
+                    text -> hasText(text) ? List.of(new Passage(source, text, null)) : List.of()));
+        }
+
+        // Gather: every future is bounded by the timeout and never completes exceptionally
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+        List<Passage> scoredPassages = new ArrayList<>();
+        List<Passage> agentPassages = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            List<Passage> targetPassages = futures.get(i).join();
+            if (targetPassages != null) {
+                // Knowledge base targets are scattered first, so their futures precede the agents'
+                (i < kbIds.size() ? scoredPassages : agentPassages).addAll(targetPassages);
+            }
+        }
+
+        // Merge knowledge base passages by score; agent responses have no score and are always kept after them
+        List<Passage> context = new ArrayList<>(scoredPassages.stream()
+                .sorted(Comparator.comparing(Passage::score, Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(MAX_CONTEXT_PASSAGES)
+                .toList());
+        context.addAll(agentPassages);
+
+        // Report every target with no passage in the context: failed, timed out, empty, or ranked out
+        Set<String> usedSources = context.stream().map(Passage::source).collect(Collectors.toSet());
+        List<String> droppedTargets = targetNames.stream()
+                .filter(source -> !usedSources.contains(source))
+                .toList();
+
+        if (context.isEmpty()) {
+            throw new RuntimeException("No scatter-gather target returned any passage: " + droppedTargets);
+        }
+
+        String response = modelService.invoke(modelId, buildPrompt(query, context),
+                GENERATION_TEMPERATURE, GENERATION_MAX_TOKENS);
+        return new ScatterGatherResult(response, context, droppedTargets);
+    }
+
+    /**
+     * Validates input parameters for the scatter-gather query.
+     *
+     * @param modelId          The ID of the model to use for generation, must not be blank.
+     * @param query            The user query text, must not be blank.
+     * @param knowledgeBaseIds The IDs of the knowledge bases to query.
+     * @param agents           The agents to invoke.
+     * @param targetTimeout    The per-target timeout, must be positive.
+     * @throws IllegalArgumentException If any parameter is invalid.
+     */
+    private void validateParameters(String modelId,
+                                    String query,
+                                    List<String> knowledgeBaseIds,
+                                    List<AgentTarget> agents,
+                                    Duration targetTimeout) {
+        if (!hasText(modelId)) {
+            throw new IllegalArgumentException("modelId must not be blank.");
+        }
+        if (!hasText(query)) {
+            throw new IllegalArgumentException("query must not be blank.");
+        }
+        if (knowledgeBaseIds.isEmpty() && agents.isEmpty()) {
+            throw new IllegalArgumentException("At least one knowledge base or agent must be provided.");
+        }
+        if (targetTimeout == null || targetTimeout.isZero() || targetTimeout.isNegative()) {
+            throw new IllegalArgumentException("targetTimeout must be positive. Provided: " + targetTimeout);
+        }
+    }
+
+    /**
+     * Bounds a target's request by the timeout and turns a failure or timeout into a {@code null} result,
+     * so a single slow or broken target cannot block or fail the whole query. A dropped request is cancelled
+     * so it releases its connection instead of running on in the background.
+     *
+     * @param source        The name of the target, used for logging.
+     * @param targetTimeout The maximum time to wait for the target.
+     * @param request       The future of the target's request.
+     * @param toPassages    Converts the target's response into passages.
+     * @param <T>           The type of the target's response.
+     * @return A future that always completes normally, with {@code null} if the target was dropped.
+     */
+    private <T> CompletableFuture<List<Passage>> withTimeout(String source,
+                                                             Duration targetTimeout,
+                                                             CompletableFuture<T> request,
+                                                             Function<T, List<Passage>> toPassages) {
+        return request
+                .thenApply(toPassages)
+                .orTimeout(targetTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((passages, e) -> {
+                    if (e == null) {
+                        return passages;
+                    }
+                    request.cancel(true);
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        logger.warn("Dropping {}: no response within {} ms", source, targetTimeout.toMillis());
+                    } else {
+                        logger.warn("Dropping {}: {}", source, cause.getMessage(), cause);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Checks whether the given text contains at least one non-whitespace character.
+     *
+     * @param text The text to check.
+     * @return {@code true} if the text is not null and not blank.
+     */
+    private static boolean hasText(String text) {
+        return text != null && !text.isBlank();
+    }
+
+    /**
+     * Builds the generation prompt from the user query and the merged passages.
+     *
+     * @param query    The user query text.
+     * @param passages The passages to use as context, in ranked order.
+     * @return The prompt to send to the model.
+     */
+    private String buildPrompt(String query, List<Passage> passages) {
+        StringBuilder prompt = new StringBuilder("""
+            Answer the question using only the information in the search results below.
+            If the search results do not contain the answer, say that you could not find it.
+
+            Search results:
+            """);
+        for (int i = 0; i < passages.size(); i++) {
+            prompt.append('[').append(i + 1).append("] ").append(passages.get(i).text().trim()).append('\n');
+        }
+        prompt.append("\nQuestion: ").append(query);
+        return prompt.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.techbellys.utility.bedrock.knowledgebase;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.bedrockagentruntime.BedrockAgentRuntimeAsyncClient;
+import software.amazon.awssdk.services.bedrockagentruntime.model.KnowledgeBaseRetrievalResult;
+import software.amazon.awssdk.services.bedrockagentruntime.model.RetrievalResultContent;
+import software.amazon.awssdk.services.bedrockagentruntime.model.RetrieveRequest;
+import software.amazon.awssdk.services.bedrockagentruntime.model.RetrieveResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class KnowledgeBaseTest {
+
+    @Mock
+    private BedrockAgentRuntimeAsyncClient bedrockAgentRuntimeAsyncClient;
+
+    @InjectMocks
+    private KnowledgeBase knowledgeBase;
+
+    @Test
+    void cancellingRetrievalCancelsRetrieveRequest() {
+        CompletableFuture<RetrieveResponse> retrieval = stubRetrieval();
+
+        CompletableFuture<List<KnowledgeBaseRetrievalResult>> results =
+                knowledgeBase.retrieveAsync("kb", "query", 5);
+        results.cancel(true);
+
+        assertTrue(retrieval.isCancelled());
+    }
+
+    @Test
+    void completesWithRetrievalResults() {
+        CompletableFuture<RetrieveResponse> retrieval = stubRetrieval();
+        KnowledgeBaseRetrievalResult passage = KnowledgeBaseRetrievalResult.builder()
+                .content(RetrievalResultContent.builder().text("passage").build())
+                .score(0.7)
+                .build();
+
+        CompletableFuture<List<KnowledgeBaseRetrievalResult>> results =
+                knowledgeBase.retrieveAsync("kb", "query", 5);
+        retrieval.complete(RetrieveResponse.builder().retrievalResults(passage).build());
+
+        assertEquals(List.of(passage), results.join());
+    }
+
+    private CompletableFuture<RetrieveResponse> stubRetrieval() {
+        CompletableFuture<RetrieveResponse> retrieval = new CompletableFuture<>();
+        when(bedrockAgentRuntimeAsyncClient.retrieve(any(RetrieveRequest.class))).thenReturn(retrieval);
+        return retrieval;
+    }
+}
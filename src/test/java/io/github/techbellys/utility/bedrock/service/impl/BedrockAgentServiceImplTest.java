@@ -0,0 +1,66 @@
+package io.github.techbellys.utility.bedrock.service.impl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.bedrockagentruntime.BedrockAgentRuntimeAsyncClient;
+import software.amazon.awssdk.services.bedrockagentruntime.model.InvokeAgentRequest;
+import software.amazon.awssdk.services.bedrockagentruntime.model.InvokeAgentResponseHandler;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BedrockAgentServiceImplTest {
+
+    @Mock
+    private BedrockAgentRuntimeAsyncClient bedrockAgentRuntimeAsyncClient;
+
+    @InjectMocks
+    private BedrockAgentServiceImpl bedrockAgentService;
+
+    @Test
+    void cancellingResponseCancelsAgentInvocation() {
+        CompletableFuture<Void> invocation = stubInvocation();
+
+        CompletableFuture<String> response =
+                bedrockAgentService.invokeBedrockAgentAsync("prompt", "agent", "alias", "session");
+        response.cancel(true);
+
+        assertTrue(invocation.isCancelled());
+    }
+
+    @Test
+    void completesWithAccumulatedTextWhenInvocationCompletes() {
+        CompletableFuture<Void> invocation = stubInvocation();
+
+        CompletableFuture<String> response =
+                bedrockAgentService.invokeBedrockAgentAsync("prompt", "agent", "alias", "session");
+        invocation.complete(null);
+
+        assertEquals("", response.join());
+    }
+
+    @Test
+    void blockingInvocationWrapsFailure() {
+        CompletableFuture<Void> invocation = stubInvocation();
+        invocation.completeExceptionally(new IllegalStateException("throttled"));
+
+        assertThrows(RuntimeException.class,
+                () -> bedrockAgentService.invokeBedrockAgent("prompt", "agent", "alias", "session"));
+    }
+
+    private CompletableFuture<Void> stubInvocation() {
+        CompletableFuture<Void> invocation = new CompletableFuture<>();
+        when(bedrockAgentRuntimeAsyncClient.invokeAgent(any(InvokeAgentRequest.class),
+                any(InvokeAgentResponseHandler.class))).thenReturn(invocation);
+        return invocation;
+    }
+}
@@ -0,0 +1,204 @@
+package io.github.techbellys.utility.bedrock.service.impl;
+
+import io.github.techbellys.utility.bedrock.knowledgebase.KnowledgeBase;
+import io.github.techbellys.utility.bedrock.model.ModelService;
+import io.github.techbellys.utility.bedrock.service.BedrockAgentService;
+import io.github.techbellys.utility.bedrock.service.ScatterGatherService.AgentTarget;
+import io.github.techbellys.utility.bedrock.service.ScatterGatherService.Passage;
+import io.github.techbellys.utility.bedrock.service.ScatterGatherService.ScatterGatherResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.bedrockagentruntime.model.KnowledgeBaseRetrievalResult;
+import software.amazon.awssdk.services.bedrockagentruntime.model.RetrievalResultContent;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScatterGatherServiceImplTest {
+
+    private static final String MODEL_ID = "model";
+    private static final String QUERY = "Which products support offline mode?";
+    private static final Duration TIMEOUT = Duration.ofMillis(200);
+
+    @Mock
+    private KnowledgeBase knowledgeBase;
+
+    @Mock
+    private BedrockAgentService bedrockAgentService;
+
+    @Mock
+    private ModelService modelService;
+
+    @InjectMocks
+    private ScatterGatherServiceImpl scatterGatherService;
+
+    @Test
+    void dropsTargetThatTimesOutAndCancelsItsRequest() {
+        CompletableFuture<List<KnowledgeBaseRetrievalResult>> slow = new CompletableFuture<>();
+        when(knowledgeBase.retrieveAsync(eq("kb-slow"), anyString(), anyInt())).thenReturn(slow);
+        stubKnowledgeBase("kb-fast", result("fast passage", 0.9));
+        stubModel();
+
+        ScatterGatherResult result = scatterGatherService.processQuery(
+                MODEL_ID, QUERY, List.of("kb-slow", "kb-fast"), List.of(), TIMEOUT);
+
+        assertEquals("answer", result.response());
+        assertEquals(List.of("knowledge-base:kb-slow"), result.droppedTargets());
+        assertEquals(List.of("fast passage"), texts(result.passages()));
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    void throwsWhenEveryTargetFails() {
+        when(knowledgeBase.retrieveAsync(eq("kb"), anyString(), anyInt()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("kb down")));
+        when(bedrockAgentService.invokeBedrockAgentAsync(anyString(), eq("agent"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("agent down")));
+
+        assertThrows(RuntimeException.class, () -> scatterGatherService.processQuery(
+                MODEL_ID, QUERY, List.of("kb"), List.of(agent("agent")), TIMEOUT));
+        verify(modelService, never()).invoke(anyString(), anyString(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void keepsAgentResponsesAlongsideFullKnowledgeBaseContext() {
+        stubKnowledgeBase("kb1", results("kb1", 5, 0.9));
+        stubKnowledgeBase("kb2", results("kb2", 5, 0.8));
+        when(bedrockAgentService.invokeBedrockAgentAsync(anyString(), eq("agent"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture("agent answer"));
+        stubModel();
+
+        ScatterGatherResult result = scatterGatherService.processQuery(
+                MODEL_ID, QUERY, List.of("kb1", "kb2"), List.of(agent("agent")), TIMEOUT);
+
+        assertEquals(11, result.passages().size());
+        Passage last = result.passages().get(10);
+        assertEquals("agent:agent", last.source());
+        assertEquals("agent answer", last.text());
+        assertTrue(result.droppedTargets().isEmpty());
+    }
+
+    @Test
+    void sortsPassagesByScoreAcrossKnowledgeBases() {
+        stubKnowledgeBase("kb1", result("low", 0.2), result("high", 0.9));
+        stubKnowledgeBase("kb2", result("mid", 0.5));
+        stubModel();
+
+        ScatterGatherResult result = scatterGatherService.processQuery(
+                MODEL_ID, QUERY, List.of("kb1", "kb2"), null, TIMEOUT);
+
+        assertEquals(List.of("high", "mid", "low"), texts(result.passages()));
+    }
+
+    @Test
+    void reportsKnowledgeBaseWhosePassagesWereAllCut() {
+        stubKnowledgeBase("kb1", results("kb1", 5, 0.9));
+        stubKnowledgeBase("kb2", results("kb2", 5, 0.8));
+        stubKnowledgeBase("kb3", results("kb3", 5, 0.1));
+        stubModel();
+
+        ScatterGatherResult result = scatterGatherService.processQuery(
+                MODEL_ID, QUERY, List.of("kb1", "kb2", "kb3"), List.of(), TIMEOUT);
+
+        assertEquals(10, result.passages().size());
+        assertEquals(List.of("knowledge-base:kb3"), result.droppedTargets());
+    }
+
+    @Test
+    void reportsKnowledgeBaseThatReturnedNoResults() {
+        stubKnowledgeBase("kb-empty", List.of());
+        stubKnowledgeBase("kb", result("passage", 0.5));
+        stubModel();
+
+        ScatterGatherResult result = scatterGatherService.processQuery(
+                MODEL_ID, QUERY, List.of("kb-empty", "kb"), List.of(), TIMEOUT);
+
+        assertEquals(List.of("passage"), texts(result.passages()));
+        assertEquals(List.of("knowledge-base:kb-empty"), result.droppedTargets());
+    }
+
+    @Test
+    void throwsWhenNoTargetReturnsAnyPassage() {
+        stubKnowledgeBase("kb-empty", List.of());
+        when(bedrockAgentService.invokeBedrockAgentAsync(anyString(), eq("agent"), anyString(), anyString()))
+                .thenReturn(CompletableFuture.completedFuture(" "));
+
+        assertThrows(RuntimeException.class, () -> scatterGatherService.processQuery(
+                MODEL_ID, QUERY, List.of("kb-empty"), List.of(agent("agent")), TIMEOUT));
+        verify(modelService, never()).invoke(anyString(), anyString(), anyDouble(), anyInt());
+    }
+
+    @Test
+    void skipsResultsWithoutTextContent() {
+        KnowledgeBaseRetrievalResult noContent = KnowledgeBaseRetrievalResult.builder().score(0.99).build();
+        stubKnowledgeBase("kb", noContent, result("text passage", 0.5));
+        stubModel();
+
+        ScatterGatherResult result = scatterGatherService.processQuery(
+                MODEL_ID, QUERY, List.of("kb"), List.of(), TIMEOUT);
+
+        assertEquals(List.of("text passage"), texts(result.passages()));
+        assertTrue(result.droppedTargets().isEmpty());
+    }
+
+    @Test
+    void rejectsBlankModelIdOrQueryBeforeSendingRequests() {
+        assertThrows(IllegalArgumentException.class, () -> scatterGatherService.processQuery(
+                " ", QUERY, List.of("kb"), List.of(), TIMEOUT));
+        assertThrows(IllegalArgumentException.class, () -> scatterGatherService.processQuery(
+                MODEL_ID, null, List.of("kb"), List.of(), TIMEOUT));
+        verifyNoInteractions(knowledgeBase, bedrockAgentService, modelService);
+    }
+
+    private void stubKnowledgeBase(String knowledgeBaseId, KnowledgeBaseRetrievalResult... results) {
+        stubKnowledgeBase(knowledgeBaseId, List.of(results));
+    }
+
+    private void stubKnowledgeBase(String knowledgeBaseId, List<KnowledgeBaseRetrievalResult> results) {
+        when(knowledgeBase.retrieveAsync(eq(knowledgeBaseId), anyString(), anyInt()))
+                .thenReturn(CompletableFuture.completedFuture(results));
+    }
+
+    private void stubModel() {
+        when(modelService.invoke(eq(MODEL_ID), anyString(), anyDouble(), anyInt())).thenReturn("answer");
+    }
+
+    private static AgentTarget agent(String agentId) {
+        return new AgentTarget(agentId, "alias", "session");
+    }
+
+    private static KnowledgeBaseRetrievalResult result(String text, double score) {
+        return KnowledgeBaseRetrievalResult.builder()
+                .content(RetrievalResultContent.builder().text(text).build())
+                .score(score)
+                .build();
+    }
+
+    private static List<KnowledgeBaseRetrievalResult> results(String prefix, int count, double score) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> result(prefix + "-" + i, score))
+                .toList();
+    }
+
+    private static List<String> texts(List<Passage> passages) {
+        return passages.stream().map(Passage::text).toList();
+    }
+}